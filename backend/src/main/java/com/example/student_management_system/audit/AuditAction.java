@@ -0,0 +1,9 @@
+package com.example.student_management_system.audit;
+
+public enum AuditAction {
+    CREATE,
+    UPDATE,
+    UPDATE_MARKS,
+    DELETE,
+    SOFT_DELETE
+}
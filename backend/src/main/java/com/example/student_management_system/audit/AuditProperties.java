@@ -0,0 +1,34 @@
+package com.example.student_management_system.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    public enum DropPolicy {
+        // Reject the incoming event when the buffer is full
+        DROP_NEWEST,
+        // Evict the oldest buffered event to make room for the incoming one
+        DROP_OLDEST
+    }
+
+    // Rounded up to a power of two
+    private int bufferCapacity = 8192;
+    private int batchSize = 500;
+    // How long the writer sleeps when the buffer is empty
+    private Duration flushInterval = Duration.ofMillis(200);
+    private DropPolicy dropPolicy = DropPolicy.DROP_NEWEST;
+
+    public void setBufferCapacity(int bufferCapacity) {
+        if (bufferCapacity < 1 || bufferCapacity > RingBuffer.MAX_CAPACITY) {
+            throw new IllegalArgumentException("audit.buffer-capacity must be between 1 and " + RingBuffer.MAX_CAPACITY);
+        }
+        this.bufferCapacity = bufferCapacity;
+    }
+}
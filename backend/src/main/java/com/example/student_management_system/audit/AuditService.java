@@ -0,0 +1,126 @@
+package com.example.student_management_system.audit;
+
+import com.example.student_management_system.dto.AuditStats;
+import com.example.student_management_system.model.Student;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records student changes without touching Mongo on the request thread: events go into a
+ * bounded ring buffer that {@link AuditWriter} drains in batches.
+ */
+@Service
+public class AuditService {
+
+    public static final int MAX_HISTORY = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditProperties properties;
+    private final RingBuffer<StudentAuditEvent> buffer;
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public AuditService(MongoTemplate mongoTemplate, AuditProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.buffer = new RingBuffer<>(properties.getBufferCapacity());
+    }
+
+    /**
+     * Snapshot the audited fields before the entity is mutated in place.
+     */
+    public Map<String, Object> snapshot(Student student) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", student.getName());
+        fields.put("email", student.getEmail());
+        fields.put("course", student.getCourse());
+        fields.put("marks", student.getMarks());
+        return fields;
+    }
+
+    /**
+     * @param before snapshot prior to the change, or null for a create
+     * @param after snapshot after the change, or null for a delete
+     */
+    public void record(AuditAction action, String studentId, Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Object> changedBefore = new LinkedHashMap<>();
+        Map<String, Object> changedAfter = new LinkedHashMap<>();
+        Map<String, Object> from = before != null ? before : Map.of();
+        Map<String, Object> to = after != null ? after : Map.of();
+        Set<String> fields = new LinkedHashSet<>(from.keySet());
+        fields.addAll(to.keySet());
+        for (String field : fields) {
+            if (!Objects.equals(from.get(field), to.get(field))) {
+                changedBefore.put(field, from.get(field));
+                changedAfter.put(field, to.get(field));
+            }
+        }
+        if (changedBefore.isEmpty()) {
+            return;
+        }
+        enqueue(new StudentAuditEvent(null, Instant.now(), studentId, action, currentActor(),
+                before != null ? changedBefore : null, after != null ? changedAfter : null));
+    }
+
+    private void enqueue(StudentAuditEvent event) {
+        while (!buffer.offer(event)) {
+            if (properties.getDropPolicy() == AuditProperties.DropPolicy.DROP_NEWEST) {
+                dropped.incrementAndGet();
+                return;
+            }
+            // DROP_OLDEST: make room and retry; another producer may win the freed slot
+            if (buffer.poll() != null) {
+                dropped.incrementAndGet();
+            }
+        }
+        enqueued.incrementAndGet();
+    }
+
+    private String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "system";
+    }
+
+    /**
+     * @param limit clamped to 1..{@value #MAX_HISTORY}; Mongo treats 0 as "no limit"
+     */
+    public List<StudentAuditEvent> getHistory(String studentId, int limit) {
+        Query query = Query.query(Criteria.where("studentId").is(studentId))
+                .with(Sort.by(Sort.Direction.DESC, "at"))
+                .limit(Math.max(1, Math.min(MAX_HISTORY, limit)));
+        return mongoTemplate.find(query, StudentAuditEvent.class);
+    }
+
+    public AuditStats getStats() {
+        return new AuditStats(buffer.capacity(), buffer.size(), properties.getDropPolicy().name(),
+                enqueued.get(), dropped.get(), written.get(), failed.get());
+    }
+
+    int drainTo(List<StudentAuditEvent> sink, int max) {
+        return buffer.drainTo(sink, max);
+    }
+
+    void markWritten(int count) {
+        written.addAndGet(count);
+    }
+
+    void markFailed(int count) {
+        failed.addAndGet(count);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.student_management_system.audit;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background thread that drains the audit buffer and batch-inserts into the time-series collection.
+ */
+@Component
+public class AuditWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditWriter.class);
+
+    private final AuditService auditService;
+    private final MongoTemplate mongoTemplate;
+    private final AuditProperties properties;
+    private volatile boolean running;
+    private Thread thread;
+
+    public AuditWriter(AuditService auditService, MongoTemplate mongoTemplate, AuditProperties properties) {
+        this.auditService = auditService;
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            if (!mongoTemplate.collectionExists(StudentAuditEvent.class)) {
+                // Picks up @TimeSeries; inserting first would create a plain collection instead
+                mongoTemplate.createCollection(StudentAuditEvent.class);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not create audit collection: {}", e.getMessage());
+        }
+        running = true;
+        thread = new Thread(this::run, "audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        List<StudentAuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            if (flush(batch) == 0) {
+                LockSupport.parkNanos(properties.getFlushInterval().toNanos());
+            }
+        }
+    }
+
+    private int flush(List<StudentAuditEvent> batch) {
+        batch.clear();
+        int count = auditService.drainTo(batch, properties.getBatchSize());
+        if (count == 0) {
+            return 0;
+        }
+        try {
+            mongoTemplate.insert(batch, StudentAuditEvent.class);
+            auditService.markWritten(count);
+        } catch (DataAccessException e) {
+            auditService.markFailed(count);
+            log.warn("Dropped {} audit events: {}", count, e.getMessage());
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(properties.getFlushInterval().toMillis() * 5);
+        }
+        // Flush whatever was enqueued after the writer thread's last pass, or if it never started
+        List<StudentAuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (flush(batch) > 0) {
+            // keep draining
+        }
+    }
+}
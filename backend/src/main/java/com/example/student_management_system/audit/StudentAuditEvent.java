@@ -0,0 +1,32 @@
+package com.example.student_management_system.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * One change to a student. Stored in a time-series collection, which Mongo buckets by studentId and time.
+ * {@code before} and {@code after} hold only the fields that changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "student_audit")
+@TimeSeries(timeField = "at", metaField = "studentId", granularity = Granularity.SECONDS)
+public class StudentAuditEvent {
+    @Id
+    private String id;
+    private Instant at;
+    private String studentId;
+    private AuditAction action;
+    private String actor;
+    private Map<String, Object> before;
+    private Map<String, Object> after;
+}
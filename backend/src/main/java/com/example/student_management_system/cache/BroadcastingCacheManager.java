@@ -0,0 +1,99 @@
+package com.example.student_management_system.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+/**
+ * Decorates a node-local {@link CacheManager} so that every eviction is also published on the
+ * {@link CacheInvalidationBus}, and evictions from other nodes are applied to the local caches.
+ */
+public class BroadcastingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheInvalidationBus bus;
+
+    public BroadcastingCacheManager(CacheManager delegate, CacheInvalidationBus bus) {
+        this.delegate = delegate;
+        this.bus = bus;
+        bus.subscribe(this::evictLocally);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        return cache != null ? new BroadcastingCache(cache) : null;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private void evictLocally(String cacheName, String key) {
+        Cache cache = delegate.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+    }
+
+    private class BroadcastingCache implements Cache {
+
+        private final Cache target;
+
+        BroadcastingCache(Cache target) {
+            this.target = target;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return target.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return target.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return target.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            // Puts come from read-through fills; mutations evict explicitly, so nothing to broadcast
+            target.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            target.evict(key);
+            // Only string keys survive the trip through Mongo; anything else clears the cache remotely
+            bus.publish(getName(), key instanceof String s ? s : null);
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+            bus.publish(getName(), null);
+        }
+    }
+}
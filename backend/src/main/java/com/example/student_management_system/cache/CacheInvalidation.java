@@ -0,0 +1,26 @@
+package com.example.student_management_system.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Eviction notice broadcast to every node through a capped collection.
+ * A null key clears the whole cache; a null cache name is a no-op marker.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "cache_invalidations")
+public class CacheInvalidation {
+    @Id
+    private String id;
+    private String nodeId;
+    private String cacheName;
+    private String key;
+    private Instant issuedAt;
+}
@@ -0,0 +1,19 @@
+package com.example.student_management_system.cache;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Transport for cache evictions between application nodes.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Tell the other nodes to evict {@code key} from {@code cacheName}, or clear it when key is null.
+     */
+    void publish(String cacheName, String key);
+
+    /**
+     * Register the handler invoked for evictions published by other nodes.
+     */
+    void subscribe(BiConsumer<String, String> handler);
+}
@@ -0,0 +1,121 @@
+package com.example.student_management_system.cache;
+
+import com.mongodb.client.model.Filters;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.MessageListener;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.messaging.TailableCursorRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Pub/sub over a capped collection tailed by every node. Works on a standalone mongod,
+ * unlike change streams, so no replica set or extra broker is needed.
+ */
+@Component
+public class MongoCacheInvalidationBus implements CacheInvalidationBus, InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoCacheInvalidationBus.class);
+
+    private static final Duration SUBSCRIBE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<BiConsumer<String, String>> handlers = new CopyOnWriteArrayList<>();
+    private final MongoTemplate mongoTemplate;
+    private final MessageListenerContainer container;
+    private final long cappedSizeBytes;
+
+    public MongoCacheInvalidationBus(MongoTemplate mongoTemplate,
+                                     @Value("${cache.invalidation.capped-size-bytes:1048576}") long cappedSizeBytes) {
+        this.mongoTemplate = mongoTemplate;
+        this.container = new DefaultMessageListenerContainer(mongoTemplate);
+        this.cappedSizeBytes = cappedSizeBytes;
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        try {
+            mongoTemplate.insert(new CacheInvalidation(null, nodeId, cacheName, key, Instant.now()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast eviction of {}:{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, String> handler) {
+        handlers.add(handler);
+    }
+
+    /**
+     * Creates the capped collection and starts tailing it before any bean can publish; an earlier
+     * insert would implicitly create an ordinary collection, which cannot be tailed.
+     */
+    @Override
+    public void afterPropertiesSet() throws InterruptedException {
+        String collection = mongoTemplate.getCollectionName(CacheInvalidation.class);
+        ensureCapped(collection);
+        // A tailable cursor over an empty collection is dead on arrival, so seed a no-op marker
+        publish(null, null);
+
+        MessageListener<Document, CacheInvalidation> listener = message -> onMessage(message.getBody());
+        TailableCursorRequest<CacheInvalidation> request = TailableCursorRequest.builder(listener)
+                .collection(collection)
+                .build();
+        container.start();
+        Subscription subscription = container.register(request, CacheInvalidation.class,
+                e -> log.error("Tailing {} failed; cross-node evictions are not being received", collection, e));
+        if (!subscription.await(SUBSCRIBE_TIMEOUT)) {
+            throw new IllegalStateException("Could not start tailing " + collection + " within " + SUBSCRIBE_TIMEOUT);
+        }
+    }
+
+    private void ensureCapped(String collection) {
+        if (!mongoTemplate.collectionExists(collection)) {
+            try {
+                mongoTemplate.createCollection(collection, CollectionOptions.empty().capped().size(cappedSizeBytes));
+                return;
+            } catch (DataAccessException e) {
+                // Another node created it concurrently; fall through and check what it created
+                log.debug("Capped collection setup: {}", e.getMessage());
+            }
+        }
+        Document info = mongoTemplate.getDb().listCollections()
+                .filter(Filters.eq("name", collection))
+                .first();
+        Document options = info != null ? info.get("options", Document.class) : null;
+        if (options == null || !options.getBoolean("capped", false)) {
+            // Left behind by a publish that ran before the collection was created capped
+            log.warn("{} is not capped; converting it so it can be tailed", collection);
+            mongoTemplate.executeCommand(new Document("convertToCapped", collection).append("size", cappedSizeBytes));
+        }
+    }
+
+    private void onMessage(CacheInvalidation invalidation) {
+        // Our own evictions were applied locally before publishing
+        if (invalidation == null || invalidation.getCacheName() == null || nodeId.equals(invalidation.getNodeId())) {
+            return;
+        }
+        handlers.forEach(handler -> handler.accept(invalidation.getCacheName(), invalidation.getKey()));
+    }
+
+    @Override
+    public void destroy() {
+        container.stop();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.student_management_system.config;
+
+import com.example.student_management_system.cache.BroadcastingCacheManager;
+import com.example.student_management_system.cache.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String STUDENTS = "students";
+    public static final String STUDENT_LISTS = "studentLists";
+    public static final String COURSE_REPORTS = "courseReports";
+
+    /**
+     * Cross-node evictions arrive asynchronously, so a value re-cached by a read that raced a remote
+     * write could otherwise stay stale forever. expireAfterWrite bounds that staleness to {@code cache.ttl}.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheInvalidationBus cacheInvalidationBus,
+                                     @Value("${cache.ttl:5m}") Duration ttl) {
+        CaffeineCacheManager local = new CaffeineCacheManager();
+        local.setCaffeine(Caffeine.newBuilder().expireAfterWrite(ttl));
+        local.setCacheNames(List.of(STUDENTS, STUDENT_LISTS, COURSE_REPORTS));
+        return new BroadcastingCacheManager(local, cacheInvalidationBus);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.student_management_system.config;
+
+import com.example.student_management_system.model.Student;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stamps deleted=false on student documents written before soft delete existed,
+ * so they match live queries and the partial live index.
+ * Runs once all singletons exist but before the web server starts, so no request can observe
+ * the half-migrated collection; a failure aborts startup.
+ */
+@Component
+public class StudentTombstoneBackfill implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentTombstoneBackfill.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    public StudentTombstoneBackfill(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long updated = mongoTemplate.updateMulti(
+                Query.query(Criteria.where("deleted").exists(false)),
+                Update.update("deleted", false),
+                Student.class).getModifiedCount();
+        if (updated > 0) {
+            log.info("Backfilled deleted=false on {} student documents", updated);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.student_management_system.controller;
+
+import com.example.student_management_system.audit.AuditService;
+import com.example.student_management_system.audit.StudentAuditEvent;
+import com.example.student_management_system.dto.AuditStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/audit")
+@Tag(name = "Audit", description = "APIs for reading the change history of student records")
+@SecurityRequirement(name = "bearerAuth")
+public class AuditController {
+
+    @Autowired
+    private AuditService auditService;
+
+    @CrossOrigin(origins = "http://localhost:5173")
+    @GetMapping("/students/{id}")
+    @Operation(
+        summary = "Get Student History",
+        description = "Retrieve the most recent changes to a student, newest first, with before/after values of the changed fields"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "History retrieved successfully",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = StudentAuditEvent.class))
+    )
+    public List<StudentAuditEvent> getStudentHistory(
+        @Parameter(description = "Student ID", required = true)
+        @PathVariable String id,
+        @Parameter(description = "Maximum number of entries to return, between 1 and 500")
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        return auditService.getHistory(id, limit);
+    }
+
+    @CrossOrigin(origins = "http://localhost:5173")
+    @GetMapping("/stats")
+    @Operation(
+        summary = "Get Audit Buffer Stats",
+        description = "Buffer depth, drop policy and counters of enqueued, dropped, written and failed audit events"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Stats retrieved successfully",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = AuditStats.class))
+    )
+    public AuditStats getStats() {
+        return auditService.getStats();
+    }
+}
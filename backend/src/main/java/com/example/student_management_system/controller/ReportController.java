@@ -0,0 +1,117 @@
+package com.example.student_management_system.controller;
+
+import com.example.student_management_system.report.CourseReportService;
+import com.example.student_management_system.report.CourseReportSnapshot;
+import com.example.student_management_system.report.CourseSummary;
+import com.example.student_management_system.report.ReportJobLock;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/reports/courses")
+@Tag(name = "Course Reports", description = "APIs for precomputed per-course marks distributions")
+@SecurityRequirement(name = "bearerAuth")
+public class ReportController {
+
+    @Autowired
+    private CourseReportService courseReportService;
+
+    @Autowired
+    private ReportJobLock reportJobLock;
+
+    @CrossOrigin(origins = "http://localhost:5173")
+    @GetMapping
+    @Operation(
+        summary = "Get Course Reports",
+        description = "Retrieve the latest snapshot of marks distributions for every course"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Snapshot retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseReportSnapshot.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No snapshot has been built yet"
+        )
+    })
+    public ResponseEntity<CourseReportSnapshot> getLatestSnapshot() {
+        return courseReportService.getLatestSnapshot()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @CrossOrigin(origins = "http://localhost:5173")
+    @GetMapping("/{course}")
+    @Operation(
+        summary = "Get Course Report",
+        description = "Retrieve the marks distribution of one course from the latest snapshot"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Course report retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseSummary.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Course not in the latest snapshot"
+        )
+    })
+    public ResponseEntity<CourseSummary> getCourseReport(
+        @Parameter(description = "Course name", required = true)
+        @PathVariable String course
+    ) {
+        return courseReportService.getLatestSnapshot()
+                .flatMap(snapshot -> snapshot.getCourses().stream()
+                        .filter(summary -> summary.getCourse().equals(course))
+                        .findFirst())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @CrossOrigin(origins = "http://localhost:5173")
+    @PostMapping("/rebuild")
+    @Operation(
+        summary = "Rebuild Course Reports",
+        description = "Build a new snapshot now. Incremental builds only recompute courses changed since the last snapshot"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Snapshot built successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseReportSnapshot.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Another build is already running"
+        )
+    })
+    public ResponseEntity<CourseReportSnapshot> rebuild(
+        @Parameter(description = "Rebuild every course instead of only the changed ones")
+        @RequestParam(defaultValue = "false") boolean full
+    ) {
+        // Same lease as the scheduled builds, on this node or any other
+        return reportJobLock.runExclusively(CourseReportService.SNAPSHOT_JOB,
+                        () -> full ? courseReportService.buildFull() : courseReportService.buildIncremental())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
 import java.util.List;
 import com.example.student_management_system.dto.UpdateMarksRequest;
 
@@ -156,12 +157,56 @@ public class StudentController {
         @Parameter(description = "Student email address", required = true)
         @PathVariable String email
     ) {
-        try {
-            studentService.deleteStudent(email);
+        if (studentService.deleteStudent(email)) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    @CrossOrigin(origins = "http://localhost:5173")
+    @DeleteMapping("/{id}")
+    @Operation(
+        summary = "Delete Student by ID",
+        description = "Remove a student record by ID. With soft=true the record is tombstoned and purged later by the TTL index"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "Student deleted successfully"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Student not found"
+        )
+    })
+    public ResponseEntity<Void> deleteStudentById(
+        @Parameter(description = "Student ID", required = true)
+        @PathVariable String id,
+        @Parameter(description = "Tombstone the record instead of removing it")
+        @RequestParam(defaultValue = "false") boolean soft
+    ) {
+        if (studentService.deleteStudentById(id, soft)) {
             return ResponseEntity.noContent().build();
-        } catch (Exception e) {
-            return ResponseEntity.notFound().build();
         }
+        return ResponseEntity.notFound().build();
+    }
+
+    @CrossOrigin(origins = "http://localhost:5173")
+    @GetMapping("/deleted")
+    @Operation(
+        summary = "Get Deleted Students",
+        description = "Retrieve soft-deleted students tombstoned after the given instant, for clients syncing deltas"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Tombstoned students retrieved successfully",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = Student.class))
+    )
+    public List<Student> getDeletedStudents(
+        @Parameter(description = "ISO-8601 instant; only tombstones newer than this are returned", required = true)
+        @RequestParam Instant since
+    ) {
+        return studentService.getDeletedStudentsSince(since);
     }
 
     @CrossOrigin(origins = "http://localhost:5173")
@@ -0,0 +1,18 @@
+package com.example.student_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditStats {
+    private int bufferCapacity;
+    private int bufferDepth;
+    private String dropPolicy;
+    private long enqueued;
+    private long dropped;
+    private long written;
+    private long failed;
+}
@@ -2,9 +2,15 @@ package com.example.student_management_system.model;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
+
 @Document(collection = "students")
+@CompoundIndex(name = "live_email", def = "{'deleted': 1, 'email': 1}", partialFilter = "{'deleted': false}")
+@CompoundIndex(name = "live_course_marks", def = "{'course': 1, 'marks': 1}", partialFilter = "{'deleted': false}")
 @Data
 public class Student {
     @Id
@@ -13,4 +19,12 @@ public class Student {
     private String email;
     private String course;
     private Double marks;
+    // Tombstone flag; live queries filter on deleted=false so they hit the partial index above
+    private boolean deleted;
+    // Set on soft delete; the TTL index purges tombstones once they are older than the retention window
+    @Indexed(name = "tombstone_ttl", expireAfter = "30d")
+    private Instant deletedAt;
+    // Bumped on every write, soft delete included; incremental report snapshots scan from here
+    @Indexed
+    private Instant updatedAt;
 }
@@ -0,0 +1,73 @@
+package com.example.student_management_system.report;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+public class CourseReportScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseReportScheduler.class);
+
+    private final CourseReportService courseReportService;
+    private final ReportJobLock reportJobLock;
+
+    public CourseReportScheduler(CourseReportService courseReportService, ReportJobLock reportJobLock) {
+        this.courseReportService = courseReportService;
+        this.reportJobLock = reportJobLock;
+    }
+
+    // Without this a fresh deployment serves 404s from every report endpoint until the first cron tick
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfMissing() {
+        try {
+            if (courseReportService.getLatestSnapshot().isPresent()) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not check for a course report snapshot: {}", e.getMessage());
+            return;
+        }
+        // Falls back to a full build when there is no snapshot
+        runExclusively("Initial", () -> {
+            CourseReportSnapshot snapshot = courseReportService.buildIncremental();
+            log.info("Course report snapshot v{} built for {} courses", snapshot.getVersion(), snapshot.getCourses().size());
+            return snapshot;
+        });
+    }
+
+    @Scheduled(cron = "${reports.snapshot.incremental-cron:0 */15 * * * *}")
+    public void incremental() {
+        runExclusively("Incremental", () -> {
+            CourseReportSnapshot snapshot = courseReportService.buildIncremental();
+            log.debug("Course report snapshot v{} rebuilt {}", snapshot.getVersion(), snapshot.getRebuiltCourses());
+            return snapshot;
+        });
+    }
+
+    // Periodic full build also repairs anything incremental builds missed, e.g. dropped audit events
+    @Scheduled(cron = "${reports.snapshot.full-cron:0 0 2 * * *}")
+    public void full() {
+        runExclusively("Full", () -> {
+            CourseReportSnapshot snapshot = courseReportService.buildFull();
+            log.info("Course report snapshot v{} built for {} courses", snapshot.getVersion(), snapshot.getCourses().size());
+            return snapshot;
+        });
+    }
+
+    private void runExclusively(String build, Supplier<CourseReportSnapshot> task) {
+        try {
+            if (reportJobLock.runExclusively(CourseReportService.SNAPSHOT_JOB, task).isEmpty()) {
+                log.debug("{} course report build skipped: another node holds the lease", build);
+            }
+        } catch (DataAccessException e) {
+            log.warn("{} course report build failed: {}", build, e.getMessage());
+        }
+    }
+}
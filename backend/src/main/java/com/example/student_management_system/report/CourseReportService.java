@@ -0,0 +1,179 @@
+package com.example.student_management_system.report;
+
+import com.example.student_management_system.audit.StudentAuditEvent;
+import com.example.student_management_system.config.CacheConfig;
+import com.example.student_management_system.model.Student;
+import com.example.student_management_system.repository.CourseReportSnapshotRepository;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Builds per-course marks reports as versioned snapshots so report endpoints never scan students.
+ * A build walks the live students once through a projected cursor, routing marks into one
+ * {@link MarksColumn} per course, then summarizes the courses in parallel on the fork/join pool.
+ */
+@Service
+public class CourseReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseReportService.class);
+
+    /**
+     * {@link ReportJobLock} lease shared by scheduled, startup and manual builds, so they never race for a version.
+     */
+    public static final String SNAPSHOT_JOB = "course-report-snapshot";
+
+    private final MongoTemplate mongoTemplate;
+    private final CourseReportSnapshotRepository snapshotRepository;
+    private final CacheManager cacheManager;
+    private final Duration overlap;
+    private final int retainedVersions;
+
+    public CourseReportService(MongoTemplate mongoTemplate,
+                               CourseReportSnapshotRepository snapshotRepository,
+                               CacheManager cacheManager,
+                               @Value("${reports.snapshot.overlap:1m}") Duration overlap,
+                               @Value("${reports.snapshot.retained-versions:10}") int retainedVersions) {
+        this.mongoTemplate = mongoTemplate;
+        this.snapshotRepository = snapshotRepository;
+        this.cacheManager = cacheManager;
+        this.overlap = overlap;
+        this.retainedVersions = retainedVersions;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.COURSE_REPORTS, unless = "#result == null")
+    public Optional<CourseReportSnapshot> getLatestSnapshot() {
+        return snapshotRepository.findTopByOrderByVersionDesc();
+    }
+
+    public CourseReportSnapshot buildFull() {
+        Instant watermark = Instant.now();
+        Optional<CourseReportSnapshot> previous = snapshotRepository.findTopByOrderByVersionDesc();
+        List<CourseSummary> courses = summarize(Criteria.where("deleted").is(false));
+        return publish(previous, watermark, true, courses.stream().map(CourseSummary::getCourse).toList(), courses);
+    }
+
+    /**
+     * Rebuilds only the courses touched since the previous snapshot and carries the rest over.
+     * Falls back to a full build when there is no snapshot yet, and returns the previous snapshot
+     * unchanged when nothing was touched.
+     */
+    public CourseReportSnapshot buildIncremental() {
+        Optional<CourseReportSnapshot> previous = snapshotRepository.findTopByOrderByVersionDesc();
+        if (previous.isEmpty()) {
+            return buildFull();
+        }
+        Instant watermark = Instant.now();
+        // Re-read a little before the watermark to tolerate clock skew between nodes and audit write lag
+        Instant since = previous.get().getWatermark().minus(overlap);
+        Set<String> affected = changedCourses(since);
+        if (affected.isEmpty()) {
+            return previous.get();
+        }
+
+        List<CourseSummary> rebuilt = summarize(Criteria.where("deleted").is(false).and("course").in(affected));
+        Map<String, CourseSummary> merged = new HashMap<>();
+        previous.get().getCourses().forEach(summary -> merged.put(summary.getCourse(), summary));
+        // Affected courses with no live students left drop out of the report
+        affected.forEach(merged::remove);
+        rebuilt.forEach(summary -> merged.put(summary.getCourse(), summary));
+        List<CourseSummary> courses = new ArrayList<>(merged.values());
+        courses.sort(Comparator.comparing(CourseSummary::getCourse));
+        return publish(previous, watermark, false, List.copyOf(affected), courses);
+    }
+
+    private Set<String> changedCourses(Instant since) {
+        Set<String> courses = new HashSet<>();
+        // Current course of every student written since the last build, tombstones included
+        Query changed = Query.query(Criteria.where("updatedAt").gt(since));
+        changed.fields().include("course").exclude("_id");
+        mongoTemplate.find(changed, Document.class, mongoTemplate.getCollectionName(Student.class))
+                .forEach(doc -> addCourse(courses, doc.get("course")));
+        // Hard deletes and course moves leave no trace on the student document; the audit log has the old course
+        Query audited = Query.query(Criteria.where("at").gt(since));
+        audited.fields().include("before.course").include("after.course").exclude("_id");
+        mongoTemplate.find(audited, Document.class, mongoTemplate.getCollectionName(StudentAuditEvent.class))
+                .forEach(doc -> {
+                    addCourse(courses, nested(doc, "before"));
+                    addCourse(courses, nested(doc, "after"));
+                });
+        return courses;
+    }
+
+    private static Object nested(Document doc, String key) {
+        Object value = doc.get(key);
+        return value instanceof Document nestedDoc ? nestedDoc.get("course") : null;
+    }
+
+    private static void addCourse(Set<String> courses, Object course) {
+        if (course instanceof String name) {
+            courses.add(name);
+        }
+    }
+
+    private List<CourseSummary> summarize(Criteria criteria) {
+        Query query = Query.query(criteria).cursorBatchSize(5000);
+        query.fields().include("course").include("marks").exclude("_id");
+
+        Map<String, MarksColumn> columns = new HashMap<>();
+        try (Stream<Document> cursor = mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(Student.class))) {
+            cursor.forEach(doc -> {
+                String course = doc.getString("course");
+                if (course == null) {
+                    // Students without a course belong to no report
+                    return;
+                }
+                Object marks = doc.get("marks");
+                columns.computeIfAbsent(course, key -> new MarksColumn())
+                        .add(marks instanceof Number number ? number.doubleValue() : null);
+            });
+        }
+
+        return columns.entrySet().parallelStream()
+                .map(entry -> entry.getValue().summarize(entry.getKey()))
+                .sorted(Comparator.comparing(CourseSummary::getCourse))
+                .toList();
+    }
+
+    private CourseReportSnapshot publish(Optional<CourseReportSnapshot> previous, Instant watermark, boolean full,
+                                         List<String> rebuiltCourses, List<CourseSummary> courses) {
+        long version = previous.map(CourseReportSnapshot::getVersion).orElse(0L) + 1;
+        CourseReportSnapshot snapshot = new CourseReportSnapshot(null, version, Instant.now(), watermark,
+                full, rebuiltCourses, courses);
+        try {
+            snapshot = snapshotRepository.insert(snapshot);
+        } catch (DuplicateKeyException e) {
+            // Another node published this version first; serve theirs
+            log.info("Course report version {} already published by another node", version);
+            return snapshotRepository.findTopByOrderByVersionDesc().orElse(snapshot);
+        }
+        snapshotRepository.deleteByVersionLessThan(version - retainedVersions + 1);
+        // Only a newly published version invalidates the cached latest; the clear is broadcast to other nodes
+        Cache cache = cacheManager.getCache(CacheConfig.COURSE_REPORTS);
+        if (cache != null) {
+            cache.clear();
+        }
+        return snapshot;
+    }
+}
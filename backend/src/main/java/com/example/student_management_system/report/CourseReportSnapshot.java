@@ -0,0 +1,32 @@
+package com.example.student_management_system.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Versioned per-course report. The unique version lets several nodes run the job without
+ * publishing duplicate snapshots: the second insert of a version loses.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "course_report_snapshots")
+public class CourseReportSnapshot {
+    @Id
+    private String id;
+    @Indexed(unique = true)
+    private long version;
+    private Instant builtAt;
+    // Changes up to this instant are reflected; the next incremental build starts here
+    private Instant watermark;
+    private boolean full;
+    private List<String> rebuiltCourses;
+    private List<CourseSummary> courses;
+}
@@ -0,0 +1,29 @@
+package com.example.student_management_system.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Marks distribution of one course. {@code histogram[i]} counts marks in [i, i+1), with 100 in the
+ * last bucket, so any quantile can be read back at one-mark resolution without the raw marks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSummary {
+    private String course;
+    private int count;
+    // Students in the course without marks yet; excluded from every statistic below
+    private int ungraded;
+    private double mean;
+    private double stdDev;
+    private double min;
+    private double max;
+    private double p10;
+    private double p25;
+    private double median;
+    private double p75;
+    private double p90;
+    private int[] histogram;
+}
@@ -0,0 +1,54 @@
+package com.example.student_management_system.report;
+
+import java.util.Arrays;
+
+/**
+ * Growable primitive column of one course's marks, filled while the cursor walks the collection.
+ */
+class MarksColumn {
+
+    private double[] values = new double[64];
+    private int size;
+    private int ungraded;
+
+    void add(Double marks) {
+        if (marks == null) {
+            ungraded++;
+            return;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = marks;
+    }
+
+    CourseSummary summarize(String course) {
+        double[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        int[] histogram = new int[100];
+        double sum = 0;
+        double sumSquares = 0;
+        for (double marks : sorted) {
+            sum += marks;
+            sumSquares += marks * marks;
+            histogram[Math.max(0, Math.min(99, (int) marks))]++;
+        }
+        double mean = size == 0 ? 0 : sum / size;
+        double variance = size == 0 ? 0 : Math.max(0, sumSquares / size - mean * mean);
+        return new CourseSummary(course, size, ungraded, mean, Math.sqrt(variance),
+                size == 0 ? 0 : sorted[0], size == 0 ? 0 : sorted[size - 1],
+                quantile(sorted, 0.10), quantile(sorted, 0.25), quantile(sorted, 0.50),
+                quantile(sorted, 0.75), quantile(sorted, 0.90), histogram);
+    }
+
+    private static double quantile(double[] sorted, double q) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        // Linear interpolation between closest ranks
+        double rank = q * (sorted.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = Math.min(sorted.length - 1, lower + 1);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.student_management_system.report;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Expiring lease in {@code report_job_lock} so only one node runs a report build at a time.
+ * A node that dies mid-build blocks the others only until its lease expires.
+ */
+@Component
+public class ReportJobLock {
+
+    static final String COLLECTION = "report_job_lock";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final MongoTemplate mongoTemplate;
+    private final Duration lease;
+
+    public ReportJobLock(MongoTemplate mongoTemplate,
+                         @Value("${reports.snapshot.lock-lease:10m}") Duration lease) {
+        this.mongoTemplate = mongoTemplate;
+        this.lease = lease;
+    }
+
+    /**
+     * @return false while another holder's lease on {@code name} has not expired
+     */
+    public boolean tryAcquire(String name) {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("_id").is(name).and("expiresAt").lt(now));
+        Update update = new Update().set("owner", nodeId).set("expiresAt", now.plus(lease));
+        try {
+            // Matches only an expired lease; with none, the upsert inserts name as _id and
+            // collides with a live lease held elsewhere
+            mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().upsert(true), Document.class, COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs {@code task} while holding the lease on {@code name}.
+     *
+     * @return empty when another holder's lease has not expired, without running the task
+     */
+    public <T> Optional<T> runExclusively(String name, Supplier<T> task) {
+        if (!tryAcquire(name)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(task.get());
+        } finally {
+            release(name);
+        }
+    }
+
+    public void release(String name) {
+        Query query = Query.query(Criteria.where("_id").is(name).and("owner").is(nodeId));
+        mongoTemplate.updateFirst(query, Update.update("expiresAt", Instant.now()), COLLECTION);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.student_management_system.repository;
+
+import com.example.student_management_system.report.CourseReportSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Optional;
+
+public interface CourseReportSnapshotRepository extends MongoRepository<CourseReportSnapshot, String> {
+	Optional<CourseReportSnapshot> findTopByOrderByVersionDesc();
+
+	long deleteByVersionLessThan(long version);
+}
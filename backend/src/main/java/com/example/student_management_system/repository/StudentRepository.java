@@ -1,8 +1,29 @@
 package com.example.student_management_system.repository;
 import com.example.student_management_system.model.Student;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 public interface StudentRepository extends MongoRepository<Student, String> {
-	// Derived delete query by email field
-	void deleteByEmail(String email);
-}
\ No newline at end of file
+	// Live (non-tombstoned) lookups, served by the partial live_email index
+	List<Student> findByDeletedFalse();
+
+	Optional<Student> findByIdAndDeletedFalse(String id);
+
+	// Derived delete queries return the removed documents so callers can report 404 and audit them
+	Optional<Student> deleteByIdAndDeletedFalse(String id);
+
+	List<Student> deleteByEmailAndDeletedFalse(String email);
+
+	// Soft delete: stamp the tombstone in place and let the TTL index purge it later
+	@Query("{ '_id': ?0, 'deleted': false }")
+	@Update("{ '$set': { 'deleted': true, 'deletedAt': ?1, 'updatedAt': ?1 } }")
+	long markDeleted(String id, Instant deletedAt);
+
+	// Tombstones for the delta feed, served by the TTL index on deletedAt
+	List<Student> findByDeletedTrueAndDeletedAtAfter(Instant since);
+}
@@ -0,0 +1,25 @@
+package com.example.student_management_system.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWT signing configuration. Every node loads the same key set, so any node can verify a
+ * token issued by another. To rotate, add a new entry to {@code keys}, point
+ * {@code activeKeyId} at it, and drop the old entry once its tokens have expired.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+    // Key id (kid) used to sign new tokens
+    private String activeKeyId;
+    // kid -> HMAC secret; all entries are accepted for verification
+    private Map<String, String> keys = new LinkedHashMap<>();
+    private Duration expiration = Duration.ofHours(24);
+}
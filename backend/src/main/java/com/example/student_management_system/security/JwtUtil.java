@@ -1,11 +1,15 @@
 package com.example.student_management_system.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
@@ -13,12 +17,19 @@ import java.util.Map;
 
 @Component
 public class JwtUtil {
-    
-    private static final String SECRET = "MySecretKeyForJWTTokenGenerationAndValidation12345678901234567890";
-    private static final long EXPIRATION_TIME = 86400000; // 24 hours
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET.getBytes());
+    private final String activeKeyId;
+    private final Map<String, Key> verificationKeys = new HashMap<>();
+    private final long expirationTime;
+
+    public JwtUtil(JwtProperties properties) {
+        properties.getKeys().forEach((kid, secret) ->
+                verificationKeys.put(kid, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))));
+        if (!verificationKeys.containsKey(properties.getActiveKeyId())) {
+            throw new IllegalStateException("jwt.active-key-id '" + properties.getActiveKeyId() + "' has no entry in jwt.keys");
+        }
+        this.activeKeyId = properties.getActiveKeyId();
+        this.expirationTime = properties.getExpiration().toMillis();
     }
 
     public String generateToken(String email) {
@@ -28,11 +39,12 @@ public class JwtUtil {
 
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, activeKeyId)
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
+                .signWith(verificationKeys.get(activeKeyId), SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -42,12 +54,26 @@ public class JwtUtil {
 
     private Claims extractAllClaims(String token) {
         return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
                 .build()
                 .parseClaimsJws(token)
                 .getBody();
     }
 
+    private Key resolveKey(String kid) {
+        // Tokens issued before kid headers were added were signed with the active key
+        Key key = verificationKeys.get(kid != null ? kid : activeKeyId);
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id: " + kid);
+        }
+        return key;
+    }
+
     public boolean isTokenExpired(String token) {
         return extractAllClaims(token).getExpiration().before(new Date());
     }
@@ -1,11 +1,19 @@
 package com.example.student_management_system.service;
 
+import com.example.student_management_system.audit.AuditAction;
+import com.example.student_management_system.audit.AuditService;
+import com.example.student_management_system.config.CacheConfig;
 import com.example.student_management_system.model.Student;
 import com.example.student_management_system.repository.StudentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -14,36 +22,94 @@ public class StudentService {
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private AuditService auditService;
+
+    @Cacheable(CacheConfig.STUDENT_LISTS)
     public List<Student> getAllStudents() {
-        return studentRepository.findAll();
+        return studentRepository.findByDeletedFalse();
     }
 
+    @Cacheable(cacheNames = CacheConfig.STUDENTS, unless = "#result == null")
     public Optional<Student> getStudentById(String id) {
-        return studentRepository.findById(id);
+        return studentRepository.findByIdAndDeletedFalse(id);
+    }
+
+    public List<Student> getDeletedStudentsSince(Instant since) {
+        return studentRepository.findByDeletedTrueAndDeletedAtAfter(since);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_LISTS, allEntries = true)
     public Student addStudent(Student student) {
-        return studentRepository.save(student);
+        student.setDeleted(false);
+        student.setDeletedAt(null);
+        student.setUpdatedAt(Instant.now());
+        Student saved = studentRepository.save(student);
+        auditService.record(AuditAction.CREATE, saved.getId(), null, auditService.snapshot(saved));
+        return saved;
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.STUDENT_LISTS, allEntries = true)
+    })
     public Student updateStudent(String id, Student studentDetails) {
-        Student student = studentRepository.findById(id)
+        Student student = studentRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
+        Map<String, Object> before = auditService.snapshot(student);
         student.setName(studentDetails.getName());
         student.setEmail(studentDetails.getEmail());
         student.setCourse(studentDetails.getCourse());
         student.setMarks(studentDetails.getMarks());
-        return studentRepository.save(student);
+        student.setUpdatedAt(Instant.now());
+        Student saved = studentRepository.save(student);
+        auditService.record(AuditAction.UPDATE, id, before, auditService.snapshot(saved));
+        return saved;
+    }
+
+    // Callers only know the email, so drop every cached student
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.STUDENT_LISTS, allEntries = true)
+    })
+    public boolean deleteStudent(String email) {
+        List<Student> deleted = studentRepository.deleteByEmailAndDeletedFalse(email);
+        deleted.forEach(student ->
+                auditService.record(AuditAction.DELETE, student.getId(), auditService.snapshot(student), null));
+        return !deleted.isEmpty();
     }
 
-    public void deleteStudent(String email) {
-        studentRepository.deleteByEmail(email);
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.STUDENT_LISTS, allEntries = true)
+    })
+    public boolean deleteStudentById(String id, boolean soft) {
+        if (soft) {
+            if (studentRepository.markDeleted(id, Instant.now()) == 0) {
+                return false;
+            }
+            // Field values are unchanged and already in the history; only the tombstone flag flips
+            auditService.record(AuditAction.SOFT_DELETE, id, Map.of("deleted", false), Map.of("deleted", true));
+            return true;
+        }
+        Optional<Student> deleted = studentRepository.deleteByIdAndDeletedFalse(id);
+        deleted.ifPresent(student ->
+                auditService.record(AuditAction.DELETE, id, auditService.snapshot(student), null));
+        return deleted.isPresent();
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.STUDENT_LISTS, allEntries = true)
+    })
     public Student updateMarks(String id, Double marks) {
-        Student student = studentRepository.findById(id)
+        Student student = studentRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
+        Map<String, Object> before = auditService.snapshot(student);
         student.setMarks(marks);
-        return studentRepository.save(student);
+        student.setUpdatedAt(Instant.now());
+        Student saved = studentRepository.save(student);
+        auditService.record(AuditAction.UPDATE_MARKS, id, before, auditService.snapshot(saved));
+        return saved;
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.example.student_management_system;
+
+import com.example.student_management_system.config.CacheConfig;
+import com.example.student_management_system.model.Student;
+import com.example.student_management_system.security.JwtProperties;
+import com.example.student_management_system.security.JwtUtil;
+import com.example.student_management_system.service.StudentService;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.spring.autoconfigure.EmbeddedMongoAutoConfiguration;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs two application instances in one JVM against a shared embedded mongod, the way
+ * several nodes behind a load balancer share one database.
+ */
+class MultiNodeTests {
+
+    private static final String KEY_1 = "FirstRotationKeyForJWTTokenGenerationAndValidation12345678";
+    private static final String KEY_2 = "SecondRotationKeyForJWTTokenGenerationAndValidation1234567";
+    private static final String KEY_3 = "ForeignKeyNoNodeKnowsForJWTTokenGenerationAndValidation12345";
+
+    private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        mongod = Mongod.instance().start(Version.Main.V7_0);
+        String uri = "mongodb://" + mongod.current().getServerAddress().getHost() + ":"
+                + mongod.current().getServerAddress().getPort() + "/multinode";
+        // Node A still signs with the old key, node B has already rotated to the new one
+        nodeA = startNode(uri, "k1");
+        nodeB = startNode(uri, "k2");
+    }
+
+    private static ConfigurableApplicationContext startNode(String mongoUri, String activeKeyId) {
+        return new SpringApplicationBuilder(StudentManagementSystemApplication.class)
+                .run("--server.port=0",
+                        "--spring.data.mongodb.uri=" + mongoUri,
+                        "--spring.autoconfigure.exclude=" + EmbeddedMongoAutoConfiguration.class.getName(),
+                        "--jwt.active-key-id=" + activeKeyId,
+                        "--jwt.keys.k1=" + KEY_1,
+                        "--jwt.keys.k2=" + KEY_2);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (mongod != null) {
+            mongod.close();
+        }
+    }
+
+    @Test
+    void tokensVerifyOnEveryNodeAcrossKeyRotation() {
+        String fromA = nodeA.getBean(JwtUtil.class).generateToken("admin@example.com");
+        String fromB = nodeB.getBean(JwtUtil.class).generateToken("admin@example.com");
+
+        assertEquals("admin@example.com", nodeB.getBean(JwtUtil.class).extractEmail(fromA));
+        assertEquals("admin@example.com", nodeA.getBean(JwtUtil.class).extractEmail(fromB));
+    }
+
+    @Test
+    void tokensSignedWithRetiredKeyAreRejected() {
+        String oldToken = nodeA.getBean(JwtUtil.class).generateToken("admin@example.com");
+
+        JwtUtil retired = new JwtUtil(keys("k2", Map.of("k2", KEY_2)));
+
+        assertThrows(SignatureException.class, () -> retired.extractEmail(oldToken));
+    }
+
+    @Test
+    void runningNodeRejectsTokensWithUnknownKeyId() {
+        String foreign = new JwtUtil(keys("k3", Map.of("k3", KEY_3))).generateToken("admin@example.com");
+
+        assertThrows(SignatureException.class, () -> nodeA.getBean(JwtUtil.class).extractEmail(foreign));
+    }
+
+    private static JwtProperties keys(String activeKeyId, Map<String, String> keys) {
+        JwtProperties properties = new JwtProperties();
+        properties.setActiveKeyId(activeKeyId);
+        properties.setKeys(keys);
+        return properties;
+    }
+
+    @Test
+    void evictionOnOneNodeReachesTheOther() throws InterruptedException {
+        StudentService serviceA = nodeA.getBean(StudentService.class);
+        StudentService serviceB = nodeB.getBean(StudentService.class);
+        Cache cacheB = nodeB.getBean(CacheManager.class).getCache(CacheConfig.STUDENTS);
+
+        Student student = new Student();
+        student.setName("Ada");
+        student.setEmail("ada@example.com");
+        student.setCourse("CS");
+        student.setMarks(70.0);
+        String id = serviceA.addStudent(student).getId();
+
+        // Warm node B's cache, then change the record through node A
+        assertEquals(70.0, serviceB.getStudentById(id).orElseThrow().getMarks());
+        assertNotNull(cacheB.get(id), "node B should serve the student from its cache");
+        serviceA.updateMarks(id, 95.0);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cacheB.get(id) != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertNull(cacheB.get(id), "node A's eviction should reach node B");
+        assertEquals(95.0, serviceB.getStudentById(id).orElseThrow().getMarks());
+    }
+}
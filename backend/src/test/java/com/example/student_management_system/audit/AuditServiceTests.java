@@ -0,0 +1,133 @@
+package com.example.student_management_system.audit;
+
+import com.example.student_management_system.model.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditServiceTests {
+
+    @AfterEach
+    void clearActor() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void createRecordsAllFieldsWithoutBefore() {
+        AuditService auditService = auditService(8, AuditProperties.DropPolicy.DROP_NEWEST);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin@example.com", null, List.of()));
+
+        auditService.record(AuditAction.CREATE, "s1", null, auditService.snapshot(student(70.0)));
+
+        StudentAuditEvent event = drainOne(auditService);
+        assertEquals(AuditAction.CREATE, event.getAction());
+        assertEquals("s1", event.getStudentId());
+        assertEquals("admin@example.com", event.getActor());
+        assertNull(event.getBefore());
+        assertEquals(Map.of("name", "Ada", "email", "ada@example.com", "course", "Maths", "marks", 70.0),
+                event.getAfter());
+    }
+
+    @Test
+    void deleteRecordsAllFieldsWithoutAfter() {
+        AuditService auditService = auditService(8, AuditProperties.DropPolicy.DROP_NEWEST);
+
+        auditService.record(AuditAction.DELETE, "s1", auditService.snapshot(student(70.0)), null);
+
+        StudentAuditEvent event = drainOne(auditService);
+        assertEquals(AuditAction.DELETE, event.getAction());
+        assertEquals("system", event.getActor());
+        assertEquals(Map.of("name", "Ada", "email", "ada@example.com", "course", "Maths", "marks", 70.0),
+                event.getBefore());
+        assertNull(event.getAfter());
+    }
+
+    @Test
+    void marksOnlyUpdateRecordsJustTheMarks() {
+        AuditService auditService = auditService(8, AuditProperties.DropPolicy.DROP_NEWEST);
+
+        auditService.record(AuditAction.UPDATE_MARKS, "s1",
+                auditService.snapshot(student(70.0)), auditService.snapshot(student(85.0)));
+
+        StudentAuditEvent event = drainOne(auditService);
+        assertEquals(Map.of("marks", 70.0), event.getBefore());
+        assertEquals(Map.of("marks", 85.0), event.getAfter());
+    }
+
+    @Test
+    void unchangedUpdateIsNotRecorded() {
+        AuditService auditService = auditService(8, AuditProperties.DropPolicy.DROP_NEWEST);
+
+        auditService.record(AuditAction.UPDATE, "s1",
+                auditService.snapshot(student(70.0)), auditService.snapshot(student(70.0)));
+
+        assertEquals(0, auditService.getStats().getEnqueued());
+        assertEquals(0, auditService.drainTo(new ArrayList<>(), 10));
+    }
+
+    @Test
+    void dropNewestKeepsBufferedEvents() {
+        AuditService auditService = auditService(2, AuditProperties.DropPolicy.DROP_NEWEST);
+
+        for (int i = 0; i < 3; i++) {
+            auditService.record(AuditAction.DELETE, "s" + i, auditService.snapshot(student(70.0)), null);
+        }
+
+        assertEquals(List.of("s0", "s1"), drainedIds(auditService));
+        assertEquals(2, auditService.getStats().getEnqueued());
+        assertEquals(1, auditService.getStats().getDropped());
+    }
+
+    @Test
+    void dropOldestMakesRoomForNewEvents() {
+        AuditService auditService = auditService(2, AuditProperties.DropPolicy.DROP_OLDEST);
+
+        for (int i = 0; i < 3; i++) {
+            auditService.record(AuditAction.DELETE, "s" + i, auditService.snapshot(student(70.0)), null);
+        }
+
+        assertEquals(List.of("s1", "s2"), drainedIds(auditService));
+        assertEquals(3, auditService.getStats().getEnqueued());
+        assertEquals(1, auditService.getStats().getDropped());
+    }
+
+    private static AuditService auditService(int capacity, AuditProperties.DropPolicy dropPolicy) {
+        AuditProperties properties = new AuditProperties();
+        properties.setBufferCapacity(capacity);
+        properties.setDropPolicy(dropPolicy);
+        // Recording and draining never touch Mongo
+        return new AuditService(null, properties);
+    }
+
+    private static StudentAuditEvent drainOne(AuditService auditService) {
+        List<StudentAuditEvent> events = new ArrayList<>();
+        assertEquals(1, auditService.drainTo(events, 10));
+        assertTrue(events.get(0).getAt() != null);
+        return events.get(0);
+    }
+
+    private static List<String> drainedIds(AuditService auditService) {
+        List<StudentAuditEvent> events = new ArrayList<>();
+        auditService.drainTo(events, 10);
+        return events.stream().map(StudentAuditEvent::getStudentId).toList();
+    }
+
+    private static Student student(Double marks) {
+        Student student = new Student();
+        student.setName("Ada");
+        student.setEmail("ada@example.com");
+        student.setCourse("Maths");
+        student.setMarks(marks);
+        return student;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.student_management_system.audit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditWriterTests {
+
+    private final AuditProperties properties = new AuditProperties();
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    @Test
+    void stopFlushesEverythingStillBuffered() throws InterruptedException {
+        properties.setBatchSize(2);
+        AuditService auditService = new AuditService(null, properties);
+        for (int i = 0; i < 5; i++) {
+            auditService.record(AuditAction.DELETE, "s" + i, Map.of("name", "Ada"), null);
+        }
+
+        new AuditWriter(auditService, mongoTemplate, properties).stop();
+
+        // Five events in batches of two
+        verify(mongoTemplate, times(3)).insert(anyCollection(), eq(StudentAuditEvent.class));
+        assertEquals(5, auditService.getStats().getWritten());
+        assertEquals(0, auditService.getStats().getBufferDepth());
+    }
+
+    @Test
+    void failedInsertIsCountedAndNotRetried() throws InterruptedException {
+        when(mongoTemplate.insert(anyCollection(), eq(StudentAuditEvent.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        AuditService auditService = new AuditService(null, properties);
+        auditService.record(AuditAction.DELETE, "s1", Map.of("name", "Ada"), null);
+
+        new AuditWriter(auditService, mongoTemplate, properties).stop();
+
+        verify(mongoTemplate).insert(anyCollection(), eq(StudentAuditEvent.class));
+        assertEquals(0, auditService.getStats().getWritten());
+        assertEquals(1, auditService.getStats().getFailed());
+        assertEquals(0, auditService.getStats().getBufferDepth());
+    }
+}
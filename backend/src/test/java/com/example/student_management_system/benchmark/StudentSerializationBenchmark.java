@@ -0,0 +1,120 @@
+package com.example.student_management_system.benchmark;
+
+import com.example.student_management_system.config.JacksonConfig;
+import com.example.student_management_system.model.Student;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing the student list endpoint body: plain reflective Jackson as a baseline, against the
+ * JSON and Smile mappers the application actually serves with (Boot's Jackson setup plus JacksonConfig).
+ * Run {@link #main} from the IDE, or after {@code mvn test-compile} with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentSerializationBenchmark {
+
+    private static final TypeReference<List<Student>> STUDENT_LIST = new TypeReference<>() { };
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<Student> students;
+    private ObjectWriter reflectiveWriter;
+    private ObjectWriter blackbirdWriter;
+    private ObjectWriter smileWriter;
+    private ObjectMapper reflectiveReader;
+    private ObjectMapper blackbirdReader;
+    private byte[] json;
+    private AnnotationConfigApplicationContext context;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Student student = new Student();
+            student.setId(String.format("%024x", i));
+            student.setName("Student " + i);
+            student.setEmail("student" + i + "@example.com");
+            student.setCourse("Course " + random.nextInt(8));
+            student.setMarks(Math.round(random.nextDouble() * 1000) / 10.0);
+            students.add(student);
+        }
+
+        context = new AnnotationConfigApplicationContext(JacksonAutoConfiguration.class, JacksonConfig.class);
+        ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper blackbird = context.getBean(ObjectMapper.class);
+        ObjectMapper smile = context.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+        reflectiveWriter = reflective.writerFor(STUDENT_LIST);
+        blackbirdWriter = blackbird.writerFor(STUDENT_LIST);
+        smileWriter = smile.writerFor(STUDENT_LIST);
+        reflectiveReader = reflective;
+        blackbirdReader = blackbird;
+        json = reflectiveWriter.writeValueAsBytes(students);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] writeJsonReflective() throws Exception {
+        return reflectiveWriter.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public byte[] writeJsonBlackbird() throws Exception {
+        return blackbirdWriter.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public byte[] writeSmileBlackbird() throws Exception {
+        return smileWriter.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public List<Student> readJsonReflective() throws Exception {
+        return reflectiveReader.readValue(json, STUDENT_LIST);
+    }
+
+    @Benchmark
+    public List<Student> readJsonBlackbird() throws Exception {
+        return blackbirdReader.readValue(json, STUDENT_LIST);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(StudentSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.student_management_system.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BroadcastingCacheManagerTests {
+
+    private final List<List<String>> published = new ArrayList<>();
+    private final AtomicLong nanos = new AtomicLong();
+    private BiConsumer<String, String> remoteHandler;
+    private BroadcastingCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationBus bus = new CacheInvalidationBus() {
+            @Override
+            public void publish(String cacheName, String key) {
+                published.add(Arrays.asList(cacheName, key));
+            }
+
+            @Override
+            public void subscribe(BiConsumer<String, String> handler) {
+                remoteHandler = handler;
+            }
+        };
+        CaffeineCacheManager local = new CaffeineCacheManager();
+        local.setCaffeine(Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(5)).ticker(nanos::get));
+        local.setCacheNames(List.of("students"));
+        cacheManager = new BroadcastingCacheManager(local, bus);
+    }
+
+    @Test
+    void putsStayLocal() {
+        cacheManager.getCache("students").put("1", "Ada");
+
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void evictionsAreBroadcast() {
+        Cache cache = cacheManager.getCache("students");
+        cache.put("1", "Ada");
+
+        cache.evict("1");
+        cache.clear();
+
+        assertEquals(List.of(Arrays.asList("students", "1"), Arrays.asList("students", null)), published);
+    }
+
+    @Test
+    void remoteEvictionsApplyLocallyWithoutRebroadcast() {
+        Cache cache = cacheManager.getCache("students");
+        cache.put("1", "Ada");
+        cache.put("2", "Alan");
+
+        remoteHandler.accept("students", "1");
+        assertNull(cache.get("1"));
+        assertNotNull(cache.get("2"));
+
+        remoteHandler.accept("students", null);
+        assertNull(cache.get("2"));
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void staleEntryMissedByInvalidationExpiresAfterTtl() {
+        Cache cache = cacheManager.getCache("students");
+        // A read that raced a remote write re-caches the old value after the eviction was applied
+        cache.put("1", "stale");
+
+        nanos.addAndGet(Duration.ofMinutes(5).minusSeconds(1).toNanos());
+        assertNotNull(cache.get("1"));
+
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertNull(cache.get("1"));
+    }
+}
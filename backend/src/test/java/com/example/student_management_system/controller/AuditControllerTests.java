@@ -0,0 +1,112 @@
+package com.example.student_management_system.controller;
+
+import com.example.student_management_system.audit.StudentAuditEvent;
+import com.example.student_management_system.model.Admin;
+import com.example.student_management_system.model.Student;
+import com.example.student_management_system.repository.AdminRepository;
+import com.example.student_management_system.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuditControllerTests {
+
+    private static final String ACTOR = "auditor@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.remove(new Query(), Student.class);
+        mongoTemplate.remove(new Query(), StudentAuditEvent.class);
+        adminRepository.deleteAll();
+        Admin admin = new Admin();
+        admin.setEmail(ACTOR);
+        admin.setPassword("unused");
+        admin.setName("Auditor");
+        adminRepository.save(admin);
+        bearer = "Bearer " + jwtUtil.generateToken(ACTOR);
+    }
+
+    @Test
+    void mutationsShowUpInHistoryWithTheActor() throws Exception {
+        Student student = new Student();
+        student.setName("Ada");
+        student.setEmail("ada@example.com");
+        student.setCourse("Maths");
+        student.setMarks(70.0);
+        String body = mockMvc.perform(post("/students")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(student)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readValue(body, Student.class).getId();
+        mockMvc.perform(patch("/students/{id}/marks", id)
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"marks\": 85.0}"))
+                .andExpect(status().isOk());
+
+        awaitHistory(id, 2);
+
+        mockMvc.perform(get("/audit/students/{id}", id).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].action").value("UPDATE_MARKS"))
+                .andExpect(jsonPath("$[0].actor").value(ACTOR))
+                .andExpect(jsonPath("$[0].before.marks").value(70.0))
+                .andExpect(jsonPath("$[0].after.marks").value(85.0))
+                .andExpect(jsonPath("$[1].action").value("CREATE"))
+                .andExpect(jsonPath("$[1].actor").value(ACTOR));
+        // limit=0 would be "no limit" to Mongo; it is clamped to a single entry instead
+        mockMvc.perform(get("/audit/students/{id}", id).param("limit", "0")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    private void awaitHistory(String id, int expected) throws InterruptedException {
+        Query query = Query.query(Criteria.where("studentId").is(id));
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        // The writer flushes asynchronously
+        while (mongoTemplate.count(query, StudentAuditEvent.class) < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Audit events for " + id + " were not written in time");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
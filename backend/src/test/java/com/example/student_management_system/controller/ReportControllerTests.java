@@ -0,0 +1,68 @@
+package com.example.student_management_system.controller;
+
+import com.example.student_management_system.report.CourseReportService;
+import com.example.student_management_system.report.CourseReportSnapshot;
+import com.example.student_management_system.report.ReportJobLock;
+import com.example.student_management_system.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ReportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ReportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CourseReportService courseReportService;
+
+    @MockitoBean
+    private ReportJobLock reportJobLock;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @Test
+    void rebuildRunsUnderTheSnapshotLease() throws Exception {
+        when(reportJobLock.runExclusively(eq(CourseReportService.SNAPSHOT_JOB), any()))
+                .thenAnswer(invocation -> Optional.of(invocation.<Supplier<?>>getArgument(1).get()));
+        when(courseReportService.buildFull()).thenReturn(
+                new CourseReportSnapshot("s1", 7, Instant.now(), Instant.now(), true, List.of(), List.of()));
+
+        mockMvc.perform(post("/reports/courses/rebuild").param("full", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(7));
+    }
+
+    @Test
+    void rebuildReturnsConflictWhileAnotherBuildHoldsTheLease() throws Exception {
+        when(reportJobLock.runExclusively(eq(CourseReportService.SNAPSHOT_JOB), any())).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/reports/courses/rebuild"))
+                .andExpect(status().isConflict());
+        verify(courseReportService, never()).buildIncremental();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.student_management_system.controller;
+
+import com.example.student_management_system.model.Student;
+import com.example.student_management_system.security.JwtUtil;
+import com.example.student_management_system.service.StudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StudentController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class StudentControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StudentService studentService;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @Test
+    void deleteByEmailReturnsNoContentWhenSomethingWasDeleted() throws Exception {
+        when(studentService.deleteStudent("ada@example.com")).thenReturn(true);
+
+        mockMvc.perform(delete("/students/email/ada@example.com"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void deleteByEmailReturnsNotFoundWhenNothingMatched() throws Exception {
+        when(studentService.deleteStudent("nobody@example.com")).thenReturn(false);
+
+        mockMvc.perform(delete("/students/email/nobody@example.com"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteByIdIsHardByDefault() throws Exception {
+        when(studentService.deleteStudentById("42", false)).thenReturn(true);
+
+        mockMvc.perform(delete("/students/42"))
+                .andExpect(status().isNoContent());
+        verify(studentService).deleteStudentById("42", false);
+    }
+
+    @Test
+    void softDeleteByIdReturnsNoContent() throws Exception {
+        when(studentService.deleteStudentById("42", true)).thenReturn(true);
+
+        mockMvc.perform(delete("/students/42").param("soft", "true"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void deleteByIdReturnsNotFoundWhenNothingMatched() throws Exception {
+        when(studentService.deleteStudentById("missing", true)).thenReturn(false);
+
+        mockMvc.perform(delete("/students/missing").param("soft", "true"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deletedFeedParsesSinceAsInstant() throws Exception {
+        Instant since = Instant.parse("2025-01-01T00:00:00Z");
+        Student tombstone = new Student();
+        tombstone.setId("42");
+        tombstone.setDeleted(true);
+        tombstone.setDeletedAt(since.plusSeconds(60));
+        when(studentService.getDeletedStudentsSince(since)).thenReturn(List.of(tombstone));
+
+        mockMvc.perform(get("/students/deleted").param("since", since.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("42"))
+                .andExpect(jsonPath("$[0].deleted").value(true));
+    }
+}
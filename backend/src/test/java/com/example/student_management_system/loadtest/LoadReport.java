@@ -0,0 +1,64 @@
+package com.example.student_management_system.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Throughput and latency percentiles of one scenario run.
+ */
+record LoadReport(String scenario, int requests, int errors, Duration elapsed,
+                  Duration p50, Duration p95, Duration p99, Duration max) {
+
+    static LoadReport of(String scenario, long[] latencyNanos, int errors, Duration elapsed) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        return new LoadReport(scenario, sorted.length, errors, elapsed,
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                Duration.ofNanos(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+    }
+
+    private static Duration percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Duration.ZERO;
+        }
+        // Nearest-rank percentile
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return Duration.ofNanos(sorted[Math.max(0, rank - 1)]);
+    }
+
+    double throughput() {
+        return elapsed.isZero() ? 0 : requests / (elapsed.toNanos() / 1e9);
+    }
+
+    double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    void assertMeets(Slo slo) {
+        List<String> violations = new ArrayList<>();
+        if (throughput() < slo.minThroughput()) {
+            violations.add(String.format("throughput %.1f req/s < %.1f", throughput(), slo.minThroughput()));
+        }
+        if (p95.compareTo(slo.maxP95()) > 0) {
+            violations.add("p95 " + p95.toMillis() + "ms > " + slo.maxP95().toMillis() + "ms");
+        }
+        if (p99.compareTo(slo.maxP99()) > 0) {
+            violations.add("p99 " + p99.toMillis() + "ms > " + slo.maxP99().toMillis() + "ms");
+        }
+        if (errorRate() > slo.maxErrorRate()) {
+            violations.add(String.format("error rate %.4f > %.4f", errorRate(), slo.maxErrorRate()));
+        }
+        if (!violations.isEmpty()) {
+            throw new AssertionError(scenario + " missed its SLO: " + String.join(", ", violations) + "\n" + this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-18s %7d req %5d err %9.1f req/s  p50=%dms p95=%dms p99=%dms max=%dms",
+                scenario, requests, errors, throughput(),
+                p50.toMillis(), p95.toMillis(), p99.toMillis(), max.toMillis());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.student_management_system.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives a fixed number of requests through a scenario from a fixed number of concurrent workers.
+ */
+class LoadRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadRunner.class);
+
+    /**
+     * One request of a scenario. Returns the HTTP status; anything outside 2xx counts as an error.
+     */
+    @FunctionalInterface
+    interface Step {
+        int execute(int iteration) throws Exception;
+    }
+
+    private final int concurrency;
+
+    LoadRunner(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    LoadReport run(String scenario, int warmupRequests, int requests, Step step) throws Exception {
+        // Warm-up iterations are numbered after the measured ones, so a scenario that picks the i-th
+        // pre-generated payload never sends the same one twice
+        drive(requests, warmupRequests, step, new long[warmupRequests], new AtomicInteger());
+
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        long start = System.nanoTime();
+        drive(0, requests, step, latencies, errors);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        LoadReport report = LoadReport.of(scenario, latencies, errors.get(), elapsed);
+        log.info("{}", report);
+        return report;
+    }
+
+    private void drive(int firstIteration, int requests, Step step, long[] latencies, AtomicInteger errors) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int w = 0; w < concurrency; w++) {
+                futures.add(workers.submit(() -> {
+                    int i;
+                    // Each worker claims the next iteration and records into its own slot, so no locking is needed
+                    while ((i = next.getAndIncrement()) < requests) {
+                        long begin = System.nanoTime();
+                        int status;
+                        try {
+                            status = step.execute(firstIteration + i);
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        latencies[i] = System.nanoTime() - begin;
+                        if (status < 200 || status >= 300) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+}
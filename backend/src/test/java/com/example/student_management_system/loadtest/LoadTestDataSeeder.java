@@ -0,0 +1,101 @@
+package com.example.student_management_system.loadtest;
+
+import com.example.student_management_system.model.Admin;
+import com.example.student_management_system.model.Student;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds students and admins with a fixed random seed, so every run loads the same data set.
+ * Documents go in through unordered bulk inserts in fixed-size batches.
+ */
+class LoadTestDataSeeder {
+
+    static final String ADMIN_PASSWORD = "load-test-password";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] FIRST_NAMES = {
+            "Aarav", "Ada", "Ananya", "Ben", "Chen", "Diya", "Elena", "Farah", "Gabriel", "Hana",
+            "Ishaan", "Jonas", "Kavya", "Liam", "Maya", "Noah", "Olivia", "Priya", "Rohan", "Sara"
+    };
+    private static final String[] LAST_NAMES = {
+            "Patel", "Smith", "Kumar", "Garcia", "Nguyen", "Sharma", "Weber", "Rossi", "Khan", "Silva"
+    };
+    // Enrolment is skewed towards a few popular courses
+    private static final String[] COURSES = {"Computer Science", "Mechanical", "Electrical", "Civil", "Chemical", "Biotech"};
+    private static final double[] COURSE_WEIGHTS = {0.35, 0.2, 0.18, 0.12, 0.1, 0.05};
+
+    private final MongoTemplate mongoTemplate;
+    private final Random random;
+
+    LoadTestDataSeeder(MongoTemplate mongoTemplate, long seed) {
+        this.mongoTemplate = mongoTemplate;
+        this.random = new Random(seed);
+    }
+
+    List<String> seedStudents(int count) {
+        List<String> ids = new ArrayList<>(count);
+        List<Student> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            Student student = randomStudent(i);
+            // Bulk inserts map each entity to a fresh Document and never write the generated _id back
+            student.setId(new ObjectId().toHexString());
+            batch.add(student);
+            ids.add(student.getId());
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class);
+                ops.insert(batch);
+                ops.execute();
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * @param passwordHash one pre-computed hash of {@link #ADMIN_PASSWORD}; bcrypt per admin would dominate seeding time
+     */
+    List<String> seedAdmins(int count, String passwordHash) {
+        List<Admin> admins = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            admins.add(new Admin(null, "admin" + i + "@loadtest.example.com", passwordHash, "Admin " + i));
+        }
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Admin.class);
+        ops.insert(admins);
+        ops.execute();
+        return admins.stream().map(Admin::getEmail).toList();
+    }
+
+    Student randomStudent(int sequence) {
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        Student student = new Student();
+        student.setName(first + " " + last);
+        student.setEmail((first + "." + last + "." + sequence + "@students.example.com").toLowerCase());
+        student.setCourse(weightedCourse());
+        student.setMarks(randomMarks());
+        return student;
+    }
+
+    private String weightedCourse() {
+        double roll = random.nextDouble();
+        for (int i = 0; i < COURSES.length; i++) {
+            roll -= COURSE_WEIGHTS[i];
+            if (roll < 0) {
+                return COURSES[i];
+            }
+        }
+        return COURSES[COURSES.length - 1];
+    }
+
+    private double randomMarks() {
+        // Roughly bell-shaped around a class average of 68, clipped to the 0-100 range
+        double marks = 68 + random.nextGaussian() * 12;
+        return Math.round(Math.max(0, Math.min(100, marks)) * 10) / 10.0;
+    }
+}
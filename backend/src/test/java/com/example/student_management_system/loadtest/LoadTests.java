@@ -0,0 +1,181 @@
+package com.example.student_management_system.loadtest;
+
+import com.example.student_management_system.model.Admin;
+import com.example.student_management_system.model.Student;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPatch;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Capacity scenarios against the full application on a random port, seeded with a reproducible data set.
+ * Excluded from the default build; run with {@code mvn test -Ploadtest}. Size the run with
+ * {@code -Dloadtest.students}, {@code -Dloadtest.admins}, {@code -Dloadtest.concurrency},
+ * {@code -Dloadtest.requests} and {@code -Dloadtest.seed}.
+ * Scenarios share one seeded database and run in a fixed order; the write-heavy ones run last so
+ * the read scenarios always see exactly the seeded data set.
+ */
+@Tag("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadTests {
+
+    private static final int STUDENTS = Integer.getInteger("loadtest.students", 10_000);
+    private static final int ADMINS = Integer.getInteger("loadtest.admins", 50);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 2_000);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LoadTestDataSeeder seeder;
+    private CloseableHttpClient client;
+    private LoadRunner runner;
+    private List<String> studentIds;
+    private List<String> adminEmails;
+    private String token;
+
+    @BeforeAll
+    void seedAndLogin() throws Exception {
+        // Clear documents rather than dropping collections so the annotation-declared indexes survive
+        mongoTemplate.remove(new Query(), Student.class);
+        mongoTemplate.remove(new Query(), Admin.class);
+        seeder = new LoadTestDataSeeder(mongoTemplate, SEED);
+        studentIds = seeder.seedStudents(STUDENTS);
+        if (studentIds.contains(null)) {
+            throw new IllegalStateException("Seeded students are missing ids; grading-burst would only hit 404s");
+        }
+        adminEmails = seeder.seedAdmins(ADMINS, passwordEncoder.encode(LoadTestDataSeeder.ADMIN_PASSWORD));
+
+        client = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(CONCURRENCY)
+                        .setMaxConnPerRoute(CONCURRENCY)
+                        .build())
+                .build();
+        runner = new LoadRunner(CONCURRENCY);
+        token = login(adminEmails.get(0));
+    }
+
+    @AfterAll
+    void closeClient() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    @Order(1)
+    void loginStorm() throws Exception {
+        // Every login pays for a bcrypt check, so this scenario is CPU bound by design
+        LoadReport report = runner.run("login-storm", CONCURRENCY, REQUESTS / 4, i -> {
+            HttpPost post = new HttpPost(url("/api/auth/login"));
+            post.setEntity(json(Map.of(
+                    "email", adminEmails.get(i % adminEmails.size()),
+                    "password", LoadTestDataSeeder.ADMIN_PASSWORD)));
+            return status(post);
+        });
+        report.assertMeets(new Slo(20, Duration.ofMillis(1500), Duration.ofMillis(3000), 0.001).withOverrides("login-storm"));
+    }
+
+    @Test
+    @Order(2)
+    void dashboardPolling() throws Exception {
+        LoadReport report = runner.run("dashboard-polling", CONCURRENCY, REQUESTS, i -> status(authorized(new HttpGet(url("/students")))));
+        report.assertMeets(new Slo(20, Duration.ofMillis(2000), Duration.ofMillis(4000), 0.001).withOverrides("dashboard-polling"));
+    }
+
+    @Test
+    @Order(3)
+    void gradingBurst() throws Exception {
+        LoadReport report = runner.run("grading-burst", CONCURRENCY, REQUESTS, i -> {
+            HttpPatch patch = new HttpPatch(url("/students/" + studentIds.get(i % studentIds.size()) + "/marks"));
+            patch.setEntity(json(Map.of("marks", (double) (i % 101))));
+            return status(authorized(patch));
+        });
+        report.assertMeets(new Slo(100, Duration.ofMillis(250), Duration.ofMillis(500), 0.001).withOverrides("grading-burst"));
+    }
+
+    @Test
+    @Order(4)
+    void bulkImport() throws Exception {
+        // A separate seeder keeps generated emails apart from the seeded data set. Payloads are generated
+        // up front so they do not depend on how the workers interleave on the shared Random
+        LoadTestDataSeeder importer = new LoadTestDataSeeder(mongoTemplate, SEED + 1);
+        List<Student> payloads = new ArrayList<>(REQUESTS + CONCURRENCY);
+        // The runner's warm-up iterations follow the measured ones
+        for (int i = 0; i < REQUESTS + CONCURRENCY; i++) {
+            payloads.add(importer.randomStudent(STUDENTS + i));
+        }
+        LoadReport report = runner.run("bulk-import", CONCURRENCY, REQUESTS, i -> {
+            HttpPost post = new HttpPost(url("/students"));
+            post.setEntity(json(payloads.get(i)));
+            return status(authorized(post));
+        });
+        report.assertMeets(new Slo(100, Duration.ofMillis(250), Duration.ofMillis(500), 0.001).withOverrides("bulk-import"));
+    }
+
+    private String login(String email) throws Exception {
+        HttpPost post = new HttpPost(url("/api/auth/login"));
+        post.setEntity(json(Map.of("email", email, "password", LoadTestDataSeeder.ADMIN_PASSWORD)));
+        JsonNode body = client.execute(post, response -> objectMapper.readTree(EntityUtils.toString(response.getEntity())));
+        return body.get("token").asText();
+    }
+
+    private <R extends ClassicHttpRequest> R authorized(R request) {
+        request.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+
+    private int status(ClassicHttpRequest request) throws Exception {
+        return client.execute(request, response -> {
+            EntityUtils.consume(response.getEntity());
+            return response.getCode();
+        });
+    }
+
+    private StringEntity json(Object body) throws Exception {
+        return new StringEntity(objectMapper.writeValueAsString(body), ContentType.APPLICATION_JSON);
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
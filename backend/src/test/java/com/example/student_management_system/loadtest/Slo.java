@@ -0,0 +1,19 @@
+package com.example.student_management_system.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Service level objectives a scenario must meet. Defaults can be overridden per scenario with
+ * {@code -Dloadtest.<scenario>.min-throughput}, {@code .max-p95-ms}, {@code .max-p99-ms} and {@code .max-error-rate}.
+ */
+record Slo(double minThroughput, Duration maxP95, Duration maxP99, double maxErrorRate) {
+
+    Slo withOverrides(String scenario) {
+        String prefix = "loadtest." + scenario + ".";
+        return new Slo(
+                Double.parseDouble(System.getProperty(prefix + "min-throughput", String.valueOf(minThroughput))),
+                Duration.ofMillis(Long.getLong(prefix + "max-p95-ms", maxP95.toMillis())),
+                Duration.ofMillis(Long.getLong(prefix + "max-p99-ms", maxP99.toMillis())),
+                Double.parseDouble(System.getProperty(prefix + "max-error-rate", String.valueOf(maxErrorRate))));
+    }
+}
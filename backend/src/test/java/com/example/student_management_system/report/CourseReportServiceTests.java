@@ -0,0 +1,127 @@
+package com.example.student_management_system.report;
+
+import com.example.student_management_system.audit.AuditService;
+import com.example.student_management_system.audit.StudentAuditEvent;
+import com.example.student_management_system.config.CacheConfig;
+import com.example.student_management_system.dto.AuditStats;
+import com.example.student_management_system.model.Student;
+import com.example.student_management_system.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// No overlap so the incremental build sees exactly the writes made after the full build
+@SpringBootTest(properties = {
+        "reports.snapshot.overlap=0s",
+        "reports.snapshot.incremental-cron=-",
+        "reports.snapshot.full-cron=-"
+})
+class CourseReportServiceTests {
+
+    @Autowired
+    private CourseReportService courseReportService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearData() {
+        mongoTemplate.remove(new Query(), Student.class);
+        mongoTemplate.remove(new Query(), StudentAuditEvent.class);
+        mongoTemplate.remove(new Query(), CourseReportSnapshot.class);
+        cacheManager.getCache(CacheConfig.COURSE_REPORTS).clear();
+    }
+
+    @Test
+    void incrementalBuildRebuildsTouchedCoursesAndCarriesOverTheRest() throws InterruptedException {
+        studentService.addStudent(student("ada@example.com", "Maths", 70.0));
+        Student alan = studentService.addStudent(student("alan@example.com", "Maths", 80.0));
+        studentService.addStudent(student("grace@example.com", "Physics", 90.0));
+        Student marie = studentService.addStudent(student("marie@example.com", "Chemistry", 60.0));
+        studentService.addStudent(student("rosalind@example.com", "Biology", 75.0));
+        awaitAuditFlush();
+        CourseReportSnapshot full = courseReportService.buildFull();
+        assertEquals(Set.of("Biology", "Chemistry", "Maths", "Physics"), byCourse(full).keySet());
+        Thread.sleep(10);
+
+        // Move Alan from Maths to Physics and hard-delete Chemistry's only student
+        studentService.updateStudent(alan.getId(), student("alan@example.com", "Physics", 80.0));
+        assertTrue(studentService.deleteStudentById(marie.getId(), false));
+        awaitAuditFlush();
+        CourseReportSnapshot incremental = courseReportService.buildIncremental();
+
+        assertEquals(full.getVersion() + 1, incremental.getVersion());
+        assertFalse(incremental.isFull());
+        assertEquals(Set.of("Chemistry", "Maths", "Physics"), Set.copyOf(incremental.getRebuiltCourses()));
+        Map<String, CourseSummary> courses = byCourse(incremental);
+        assertEquals(Set.of("Biology", "Maths", "Physics"), courses.keySet());
+        assertEquals(1, courses.get("Maths").getCount());
+        assertEquals(70.0, courses.get("Maths").getMean(), 1e-9);
+        assertEquals(2, courses.get("Physics").getCount());
+        assertEquals(85.0, courses.get("Physics").getMean(), 1e-9);
+        assertEquals(byCourse(full).get("Biology"), courses.get("Biology"));
+        assertEquals(incremental.getVersion(), courseReportService.getLatestSnapshot().orElseThrow().getVersion());
+    }
+
+    @Test
+    void incrementalBuildWithoutChangesReturnsPreviousSnapshot() throws InterruptedException {
+        studentService.addStudent(student("ada@example.com", "Maths", 70.0));
+        awaitAuditFlush();
+        CourseReportSnapshot full = courseReportService.buildFull();
+
+        CourseReportSnapshot incremental = courseReportService.buildIncremental();
+
+        assertEquals(full.getVersion(), incremental.getVersion());
+        assertEquals(1, mongoTemplate.count(new Query(), CourseReportSnapshot.class));
+    }
+
+    private void awaitAuditFlush() throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        // Course moves and hard deletes are only visible to the incremental build through the audit log
+        while (true) {
+            AuditStats stats = auditService.getStats();
+            if (stats.getWritten() + stats.getFailed() + stats.getDropped() >= stats.getEnqueued()) {
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Audit events were not written in time: " + stats);
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static Map<String, CourseSummary> byCourse(CourseReportSnapshot snapshot) {
+        return snapshot.getCourses().stream().collect(Collectors.toMap(CourseSummary::getCourse, Function.identity()));
+    }
+
+    private static Student student(String email, String course, Double marks) {
+        Student student = new Student();
+        student.setName(email.substring(0, email.indexOf('@')));
+        student.setEmail(email);
+        student.setCourse(course);
+        student.setMarks(marks);
+        return student;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.student_management_system.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MarksColumnTests {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    void interpolatesQuantilesBetweenRanks() {
+        CourseSummary summary = column(40.0, 10.0, 30.0, 20.0).summarize("Maths");
+
+        assertEquals(13.0, summary.getP10(), DELTA);
+        assertEquals(17.5, summary.getP25(), DELTA);
+        assertEquals(25.0, summary.getMedian(), DELTA);
+        assertEquals(32.5, summary.getP75(), DELTA);
+        assertEquals(37.0, summary.getP90(), DELTA);
+        assertEquals(10.0, summary.getMin(), DELTA);
+        assertEquals(40.0, summary.getMax(), DELTA);
+    }
+
+    @Test
+    void singleValueIsEveryQuantile() {
+        CourseSummary summary = column(64.5).summarize("Maths");
+
+        assertEquals(64.5, summary.getP10(), DELTA);
+        assertEquals(64.5, summary.getMedian(), DELTA);
+        assertEquals(64.5, summary.getP90(), DELTA);
+        assertEquals(0.0, summary.getStdDev(), DELTA);
+    }
+
+    @Test
+    void computesPopulationMeanAndStdDev() {
+        CourseSummary summary = column(2.0, 4.0, 4.0, 4.0, 5.0, 5.0, 7.0, 9.0).summarize("Maths");
+
+        assertEquals(8, summary.getCount());
+        assertEquals(5.0, summary.getMean(), DELTA);
+        assertEquals(2.0, summary.getStdDev(), DELTA);
+    }
+
+    @Test
+    void bucketsWholeRangeWithHundredInLastBucket() {
+        MarksColumn column = new MarksColumn();
+        // More than the initial backing array, so growth is covered too
+        for (int marks = 0; marks <= 100; marks++) {
+            column.add((double) marks);
+        }
+
+        CourseSummary summary = column.summarize("Maths");
+
+        assertEquals(101, summary.getCount());
+        assertEquals(50.0, summary.getMedian(), DELTA);
+        assertEquals(10.0, summary.getP10(), DELTA);
+        assertEquals(90.0, summary.getP90(), DELTA);
+        assertEquals(1, summary.getHistogram()[0]);
+        assertEquals(1, summary.getHistogram()[50]);
+        assertEquals(2, summary.getHistogram()[99]);
+    }
+
+    @Test
+    void clampsOutOfRangeMarksIntoEdgeBuckets() {
+        CourseSummary summary = column(-5.0, 0.0, 99.5, 100.0, 150.0).summarize("Maths");
+
+        int[] expected = new int[100];
+        expected[0] = 2;
+        expected[99] = 3;
+        assertArrayEquals(expected, summary.getHistogram());
+        // Statistics still use the raw values
+        assertEquals(-5.0, summary.getMin(), DELTA);
+        assertEquals(150.0, summary.getMax(), DELTA);
+    }
+
+    @Test
+    void ungradedStudentsAreCountedSeparately() {
+        CourseSummary summary = column(null, 80.0, null, 60.0).summarize("Maths");
+
+        assertEquals(2, summary.getCount());
+        assertEquals(2, summary.getUngraded());
+        assertEquals(70.0, summary.getMean(), DELTA);
+        assertEquals(70.0, summary.getMedian(), DELTA);
+        assertEquals(2, Arrays.stream(summary.getHistogram()).sum());
+    }
+
+    @Test
+    void courseWithOnlyUngradedStudentsHasZeroedStatistics() {
+        CourseSummary summary = column(null, null).summarize("Maths");
+
+        assertEquals("Maths", summary.getCourse());
+        assertEquals(0, summary.getCount());
+        assertEquals(2, summary.getUngraded());
+        assertEquals(0.0, summary.getMean(), DELTA);
+        assertEquals(0.0, summary.getMedian(), DELTA);
+        assertArrayEquals(new int[100], summary.getHistogram());
+    }
+
+    private static MarksColumn column(Double... marks) {
+        MarksColumn column = new MarksColumn();
+        for (Double value : marks) {
+            column.add(value);
+        }
+        return column;
+    }
+}
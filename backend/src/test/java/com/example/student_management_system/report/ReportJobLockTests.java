@@ -0,0 +1,69 @@
+package com.example.student_management_system.report;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ReportJobLockTests {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void clearLocks() {
+        mongoTemplate.remove(new Query(), Document.class, ReportJobLock.COLLECTION);
+    }
+
+    @Test
+    void onlyOneNodeHoldsTheLeaseUntilItIsReleased() {
+        ReportJobLock nodeA = new ReportJobLock(mongoTemplate, Duration.ofMinutes(10));
+        ReportJobLock nodeB = new ReportJobLock(mongoTemplate, Duration.ofMinutes(10));
+
+        assertTrue(nodeA.tryAcquire("job"));
+        assertFalse(nodeB.tryAcquire("job"));
+        assertTrue(nodeB.tryAcquire("other-job"));
+
+        // Only the holder can release
+        nodeB.release("job");
+        assertFalse(nodeB.tryAcquire("job"));
+        nodeA.release("job");
+        assertTrue(nodeB.tryAcquire("job"));
+    }
+
+    @Test
+    void expiredLeaseCanBeTakenOver() throws InterruptedException {
+        ReportJobLock crashed = new ReportJobLock(mongoTemplate, Duration.ofMillis(50));
+        ReportJobLock survivor = new ReportJobLock(mongoTemplate, Duration.ofMinutes(10));
+
+        assertTrue(crashed.tryAcquire("job"));
+        Thread.sleep(100);
+
+        assertTrue(survivor.tryAcquire("job"));
+        assertFalse(crashed.tryAcquire("job"));
+    }
+
+    @Test
+    void runExclusivelySkipsTheTaskWhileTheLeaseIsHeld() {
+        ReportJobLock nodeA = new ReportJobLock(mongoTemplate, Duration.ofMinutes(10));
+        ReportJobLock nodeB = new ReportJobLock(mongoTemplate, Duration.ofMinutes(10));
+
+        assertEquals(Optional.of("built"), nodeA.runExclusively("job", () -> {
+            assertTrue(nodeB.runExclusively("job", () -> "raced").isEmpty());
+            return "built";
+        }));
+        // Released afterwards, so the next build can run
+        assertEquals(Optional.of("built"), nodeB.runExclusively("job", () -> "built"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.student_management_system.service;
+
+import com.example.student_management_system.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class StudentServiceTests {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void clearStudents() {
+        mongoTemplate.remove(new Query(), Student.class);
+    }
+
+    @Test
+    void softDeleteHidesStudentFromListAndGet() {
+        String id = studentService.addStudent(student("ada@example.com")).getId();
+        String keptId = studentService.addStudent(student("alan@example.com")).getId();
+        // Warm the caches so the test also covers eviction on soft delete
+        assertEquals(2, studentService.getAllStudents().size());
+        assertTrue(studentService.getStudentById(id).isPresent());
+
+        assertTrue(studentService.deleteStudentById(id, true));
+
+        assertTrue(studentService.getStudentById(id).isEmpty());
+        assertEquals(List.of(keptId), studentService.getAllStudents().stream().map(Student::getId).toList());
+        // The tombstone is still stored until the TTL index purges it
+        assertTrue(mongoTemplate.findById(id, Student.class).isDeleted());
+    }
+
+    @Test
+    void deletesReportWhetherAnythingMatched() {
+        String id = studentService.addStudent(student("ada@example.com")).getId();
+        studentService.addStudent(student("alan@example.com"));
+
+        assertTrue(studentService.deleteStudentById(id, true));
+        assertFalse(studentService.deleteStudentById(id, true));
+        assertFalse(studentService.deleteStudentById(id, false));
+
+        assertTrue(studentService.deleteStudent("alan@example.com"));
+        assertFalse(studentService.deleteStudent("alan@example.com"));
+    }
+
+    @Test
+    void deletedFeedReturnsOnlyNewerTombstones() throws InterruptedException {
+        String older = studentService.addStudent(student("ada@example.com")).getId();
+        String newer = studentService.addStudent(student("alan@example.com")).getId();
+        studentService.addStudent(student("grace@example.com"));
+
+        studentService.deleteStudentById(older, true);
+        Thread.sleep(20);
+        Instant since = Instant.now();
+        Thread.sleep(20);
+        studentService.deleteStudentById(newer, true);
+
+        List<Student> feed = studentService.getDeletedStudentsSince(since);
+
+        assertEquals(List.of(newer), feed.stream().map(Student::getId).toList());
+        assertTrue(feed.get(0).isDeleted());
+    }
+
+    private static Student student(String email) {
+        Student student = new Student();
+        student.setName(email.substring(0, email.indexOf('@')));
+        student.setEmail(email);
+        student.setCourse("CS");
+        student.setMarks(70.0);
+        return student;
+    }
+}